@@ -0,0 +1,39 @@
+package com.elevator;
+
+/**
+ * Class implementing destination-dispatch group assignment.
+ * Callers enter their destination floor before boarding, so the dispatcher can
+ * place passengers with similar destinations in the same elevator. The cost is
+ * read from each elevator's own destination set, which the elevator keeps up to
+ * date on every assignment, stop and boarding.
+ * @author Ashwin Mahesh
+ */
+public class DestinationDispatcher {
+    /** Cost of adding a floor the elevator would not otherwise stop at */
+    private static final int NEW_STOP_COST = 3;
+    /** Cost per stop the elevator already has planned */
+    private static final int PLANNED_STOP_COST = 1;
+
+    /**
+     * Calculates the cost of adding a request to an elevator's group.
+     * Combines the elevator's pickup cost with the number of stops it already
+     * has planned and the number of new stops the request would add.
+     * @param elevator the elevator to evaluate
+     * @param request the request to evaluate
+     * @return the calculated cost
+     */
+    public int calculateCost(Elevator elevator, Request request) {
+        int newStops = 0;
+
+        if (!elevator.hasDestination(request.getFromFloor())) {
+            newStops++;
+        }
+        if (!elevator.hasDestination(request.getToFloor())) {
+            newStops++;
+        }
+
+        return elevator.calculateCost(request)
+                + PLANNED_STOP_COST * elevator.getDestinationCount()
+                + NEW_STOP_COST * newStops;
+    }
+}
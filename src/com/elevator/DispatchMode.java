@@ -0,0 +1,12 @@
+package com.elevator;
+
+/**
+ * Enum representing how the controller assigns requests to elevators.
+ * @author Ashwin Mahesh
+ */
+public enum DispatchMode {
+    // Assign each call to the elevator closest to the pickup floor
+    CONVENTIONAL,
+    // Group passengers with similar destinations into the same elevator
+    DESTINATION
+}
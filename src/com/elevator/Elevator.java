@@ -22,8 +22,10 @@ public class Elevator {
     private int currentLoad;
     /** Set of destination floors the elevator needs to visit */
     private final Set<Integer> destinationFloors;
-    /** Queue of requests assigned to this elevator */
+    /** Queue of requests assigned to this elevator and still waiting for pickup */
     private final Queue<Request> requestQueue;
+    /** Requests whose passengers have boarded and not yet reached their destination */
+    private final List<Request> onboardRequests;
     /** Flag indicating whether the elevator doors are open */
     private boolean doorsOpen;
 
@@ -42,6 +44,7 @@ public class Elevator {
         this.currentLoad = 0;
         this.destinationFloors = new TreeSet<>();
         this.requestQueue = new LinkedList<>();
+        this.onboardRequests = new ArrayList<>();
         this.doorsOpen = false;
     }
 
@@ -85,27 +88,67 @@ public class Elevator {
 
     /**
      * Opens the elevator doors at the current floor.
-     * Unloads passengers destined for this floor and loads new passengers
-     * from the request queue if there is capacity.
+     * Passengers are then exchanged with alightPassengers() and boardPassengers().
      */
     public void openDoors(){
         doorsOpen = true;
         System.out.printf("Elevator %d doors opened at floor %d%n", id, currentFloor);
 
         destinationFloors.remove(currentFloor);
+    }
 
-        if(currentFloor > 0){
-            int unloading = Math.min(currentLoad, 2);
-            currentLoad -= unloading;
-            System.out.printf("Elevator %d unloaded %d passengers at floor %d%n", id, unloading, currentFloor);
+    /**
+     * Removes the requests whose destination is the current floor from the elevator.
+     * Should be called while the doors are open.
+     * @return the requests whose passengers got off at this floor
+     */
+    public List<Request> alightPassengers(){
+        List<Request> alighted = new ArrayList<>();
+        Iterator<Request> iterator = onboardRequests.iterator();
+
+        while(iterator.hasNext()){
+            Request request = iterator.next();
+            if(request.getToFloor() == currentFloor){
+                alighted.add(request);
+                iterator.remove();
+            }
+        }
 
+        if(!alighted.isEmpty()){
+            currentLoad -= alighted.size();
+            System.out.printf("Elevator %d unloaded %d passengers at floor %d%n", id, alighted.size(), currentFloor);
         }
 
-        if (currentLoad < capacity && !requestQueue.isEmpty()) {
-            int loading = Math.min(capacity - currentLoad, 2);
-            currentLoad += loading;
-            System.out.printf("Elevator %d: %d passengers entered%n", id, loading);
+        return alighted;
+    }
+
+    /**
+     * Picks up the waiting requests that originate at the current floor.
+     * Their destination floors are added again, since the elevator may have
+     * already passed them on the way to the pickup.
+     * Should be called while the doors are open.
+     * @return the requests whose passengers got on at this floor
+     */
+    public List<Request> boardPassengers(){
+        List<Request> boarded = new ArrayList<>();
+        Iterator<Request> iterator = requestQueue.iterator();
+
+        while(iterator.hasNext()){
+            Request request = iterator.next();
+            if(request.getFromFloor() == currentFloor){
+                boarded.add(request);
+                onboardRequests.add(request);
+                addDestination(request.getToFloor());
+                iterator.remove();
+            }
         }
+
+        if(!boarded.isEmpty()){
+            currentLoad += boarded.size();
+            System.out.printf("Elevator %d: %d passengers entered%n", id, boarded.size());
+        }
+
+        return boarded;
     }
 
     /**
@@ -187,10 +230,12 @@ public class Elevator {
 
     /**
      * Checks if the elevator has capacity for more passengers.
+     * Passengers still waiting for pickup count against capacity, so every
+     * assigned passenger is guaranteed room when the elevator arrives.
      * @return true if there is capacity, false otherwise.
      */
     public boolean hasCapacity(){
-        return currentLoad < capacity;
+        return currentLoad + requestQueue.size() < capacity;
     }
 
     /**
@@ -257,6 +302,14 @@ public class Elevator {
         return capacity;
     }
 
+    /**
+     * Checks if the elevator doors are open.
+     * @return true if the doors are open, false otherwise.
+     */
+    public boolean isDoorsOpen(){
+        return doorsOpen;
+    }
+
     /**
      * Checks if the elevator is idle (no destinations and IDLE direction).
      * @return  true if idle, false otherwise.
@@ -273,6 +326,15 @@ public class Elevator {
         return !destinationFloors.isEmpty();
     }
 
+    /**
+     * Checks if the elevator will stop at the given floor.
+     * @param floor the floor to check
+     * @return true if the floor is one of the destination floors, false otherwise.
+     */
+    public boolean hasDestination(int floor){
+        return destinationFloors.contains(floor);
+    }
+
     /**
      * Gets the count of destination floors.
      * @return the number of destination floors
@@ -18,6 +18,18 @@ public class ElevatorController {
     private final int maxFloor;
     /** Queue of pending requests that could not be assigned immediately */
     private final Queue<Request> pendingRequests;
+    /** Publisher of elevator state snapshots for monitoring clients */
+    private final ElevatorStatePublisher statePublisher;
+    /** Number of steps executed so far */
+    private long stepCount;
+    /** How requests are assigned to elevators */
+    private final DispatchMode dispatchMode;
+    /** Cost function for destination dispatch, or null in conventional mode */
+    private final DestinationDispatcher destinationDispatcher;
+    /** Passenger service metrics */
+    private final PerformanceStats stats;
+    /** How long the doors stay open at each stop, in milliseconds */
+    private long doorDelayMillis;
 
     /**
      * Constructor to initialize the ElevatorController with a specified number of elevators.
@@ -27,16 +39,36 @@ public class ElevatorController {
      * @param elevatorCapacity the maximum passenger capacity for each elevator
      */
     public ElevatorController(int numElevators, int minFloor, int maxFloor, int elevatorCapacity){
+        this(numElevators, minFloor, maxFloor, elevatorCapacity, DispatchMode.CONVENTIONAL);
+    }
+
+    /**
+     * Constructor to initialize the ElevatorController with a specified number of elevators and dispatch mode.
+     * @param numElevators the number of elevators to manage
+     * @param minFloor the minimum floor number in the building
+     * @param maxFloor the maximum floor number in the building
+     * @param elevatorCapacity the maximum passenger capacity for each elevator
+     * @param dispatchMode how requests are assigned to elevators
+     */
+    public ElevatorController(int numElevators, int minFloor, int maxFloor, int elevatorCapacity, DispatchMode dispatchMode){
         this.elevators = new ArrayList<>();
         this.minFloor = minFloor;
         this.maxFloor = maxFloor;
         this.pendingRequests = new LinkedList<>();
+        this.statePublisher = new ElevatorStatePublisher();
+        this.stepCount = 0;
+        this.dispatchMode = dispatchMode;
+        this.destinationDispatcher = (dispatchMode == DispatchMode.DESTINATION)
+                ? new DestinationDispatcher()
+                : null;
+        this.stats = new PerformanceStats();
+        this.doorDelayMillis = 500;
 
         for(int i = 0; i < numElevators; i++){
             elevators.add(new Elevator(i + 1, elevatorCapacity, minFloor));
         }
 
-        System.out.printf("Initialized ElevatorController with %d elevators%n", numElevators);
+        System.out.printf("Initialized ElevatorController with %d elevators (%s dispatch)%n", numElevators, dispatchMode);
     }
 
     /**
@@ -56,13 +88,14 @@ public class ElevatorController {
         }
 
         Request request = new Request(fromFloor, toFloor);
+        stats.recordRequest(request, stepCount);
         System.out.printf("New request: Floor %d -> %d%n", fromFloor, toFloor);
         
         
         Elevator bestElevator = findBestElevator(request);
         
         if (bestElevator != null) {
-            bestElevator.addRequest(request);
+            assignRequest(bestElevator, request);
             System.out.printf("Assigned to Elevator %d%n", bestElevator.getId());
         } else {
             pendingRequests.offer(request);
@@ -70,8 +103,30 @@ public class ElevatorController {
         }
     }
 
+    /**
+     * Assigns a request to an elevator and publishes the assignment to monitoring clients.
+     * @param elevator the elevator to assign the request to
+     * @param request the request to assign
+     */
+    private void assignRequest(Elevator elevator, Request request){
+        elevator.addRequest(request);
+        publishState(elevator, request);
+    }
+
+    /**
+     * Publishes a snapshot of the elevator's state if anyone is subscribed.
+     * @param elevator the elevator whose state changed
+     * @param assignedRequest the request just assigned to the elevator, or null
+     */
+    private void publishState(Elevator elevator, Request assignedRequest){
+        if(statePublisher.hasSubscribers()){
+            statePublisher.publish(new ElevatorSnapshot(elevator, pendingRequests.size(), assignedRequest, stepCount));
+        }
+    }
+
     /**
      * Finds the best elevator to handle the given request based on cost and load.
+     * In destination mode the cost also accounts for the stops each elevator already has planned.
      * @param request the elevator request to be assigned
      * @return the best Elevator instance to handle the request, or null if none available
      */
@@ -84,7 +139,9 @@ public class ElevatorController {
                 continue;
             }
 
-            int cost = elevator.calculateCost(request);
+            int cost = (dispatchMode == DispatchMode.DESTINATION)
+                    ? destinationDispatcher.calculateCost(elevator, request)
+                    : elevator.calculateCost(request);
         
             if(cost < lowestCost){
                 lowestCost = cost;
@@ -104,15 +161,24 @@ public class ElevatorController {
      * Processes pending requests and updates each elevator's position and state.
      */
     public void step(){
+        stepCount++;
         processPendingRequests();
 
         for (Elevator elevator : elevators) {
-            if (elevator.shouldStopCurrentFloor()) {
+            boolean stopped = elevator.shouldStopCurrentFloor();
+
+            if (stopped) {
                 elevator.openDoors();
-                try {
-                    Thread.sleep(500); 
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
+                List<Request> alighted = elevator.alightPassengers();
+                List<Request> boarded = elevator.boardPassengers();
+                stats.recordStop(alighted, boarded, stepCount);
+
+                if (doorDelayMillis > 0) {
+                    try {
+                        Thread.sleep(doorDelayMillis);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
                 }
                 elevator.closeDoors();
             }
@@ -120,8 +186,12 @@ public class ElevatorController {
             
             elevator.updateDirection();
 
-            
-            elevator.move();
+            // A stop takes the whole step, so the elevator moves on in the next one
+            if (!stopped) {
+                elevator.move();
+            }
+
+            publishState(elevator, null);
         }
 
     }
@@ -137,13 +207,15 @@ public class ElevatorController {
             Elevator bestElevator = findBestElevator(request);
 
             if(bestElevator != null){
-                bestElevator.addRequest(request);
+                assignRequest(bestElevator, request);
                 System.out.printf("Assigned queued request to Elevator %d%n", bestElevator.getId());
             }
             else{
                 remainingRequests.offer(request);
             }
         }
+
+        pendingRequests.addAll(remainingRequests);
     }
 
     /**
@@ -190,6 +262,48 @@ public class ElevatorController {
         return new ArrayList<>(elevators);
     }
 
+    /**
+     * Gets the publisher of elevator state snapshots.
+     * Subscribers receive the latest state per elevator after every step and
+     * whenever a request is assigned; slow subscribers get conflated updates.
+     * @return the state publisher
+     */
+    public ElevatorStatePublisher getStatePublisher() {
+        return statePublisher;
+    }
+
+    /**
+     * Gets the number of steps executed so far.
+     * @return the step count
+     */
+    public long getStepCount() {
+        return stepCount;
+    }
+
+    /**
+     * Gets the dispatch mode used to assign requests.
+     * @return the dispatch mode
+     */
+    public DispatchMode getDispatchMode() {
+        return dispatchMode;
+    }
+
+    /**
+     * Gets the passenger service metrics collected so far.
+     * @return the performance statistics
+     */
+    public PerformanceStats getStats() {
+        return stats;
+    }
+
+    /**
+     * Sets how long the doors stay open at each stop.
+     * @param doorDelayMillis the door delay in milliseconds, or 0 for none
+     */
+    public void setDoorDelayMillis(long doorDelayMillis) {
+        this.doorDelayMillis = doorDelayMillis;
+    }
+
     /**
      * Gets the count of pending requests.
      * @return the number of pending requests
@@ -0,0 +1,223 @@
+package com.elevator;
+
+import java.util.*;
+
+/**
+ * Class representing an immutable snapshot of a single elevator's state.
+ * Snapshots are what the controller hands to monitoring clients, so they never
+ * see the live, mutable Elevator objects used by the stepping loop.
+ * When a newer snapshot replaces an undelivered one, the assignments of both are
+ * merged, so conflation drops intermediate car states but never assignments.
+ * @author Ashwin Mahesh
+ */
+public final class ElevatorSnapshot {
+    /** Maximum number of merged assignments kept for a subscriber that stops requesting */
+    private static final int MAX_ASSIGNMENTS = 1024;
+
+    /** Identifier of the elevator this snapshot describes */
+    private final int elevatorId;
+    /** Floor the elevator was on when the snapshot was taken */
+    private final int currentFloor;
+    /** Movement direction of the elevator */
+    private final Direction direction;
+    /** Number of passengers in the elevator */
+    private final int currentLoad;
+    /** Maximum passenger capacity of the elevator */
+    private final int capacity;
+    /** Number of destination floors still to be visited */
+    private final int destinationCount;
+    /** Whether the doors were open */
+    private final boolean doorsOpen;
+    /** Number of requests waiting in the controller for any elevator */
+    private final int pendingRequestCount;
+    /** Requests assigned to this elevator since the last delivered snapshot, oldest first */
+    private final List<Request> assignedRequests;
+    /** Number of assignments discarded because the merged list exceeded its limit */
+    private final int droppedAssignmentCount;
+    /** The controller step in which the snapshot was taken */
+    private final long step;
+
+    /**
+     * Constructor to capture the current state of an elevator.
+     * @param elevator the elevator to capture
+     * @param pendingRequestCount the number of requests pending in the controller
+     * @param assignedRequest the request just assigned to the elevator, or null
+     * @param step the controller step in which the snapshot is taken
+     */
+    public ElevatorSnapshot(Elevator elevator, int pendingRequestCount, Request assignedRequest, long step) {
+        this.elevatorId = elevator.getId();
+        this.currentFloor = elevator.getCurrentFloor();
+        this.direction = elevator.getDirection();
+        this.currentLoad = elevator.getCurrentLoad();
+        this.capacity = elevator.getCapacity();
+        this.destinationCount = elevator.getDestinationCount();
+        this.doorsOpen = elevator.isDoorsOpen();
+        this.pendingRequestCount = pendingRequestCount;
+        this.assignedRequests = (assignedRequest != null)
+                ? Collections.singletonList(assignedRequest)
+                : Collections.emptyList();
+        this.droppedAssignmentCount = 0;
+        this.step = step;
+    }
+
+    /**
+     * Constructor to copy a snapshot with a different list of assignments.
+     * @param source the snapshot whose state is copied
+     * @param assignedRequests the assignments to carry
+     * @param droppedAssignmentCount the number of assignments discarded so far
+     */
+    private ElevatorSnapshot(ElevatorSnapshot source, List<Request> assignedRequests, int droppedAssignmentCount) {
+        this.elevatorId = source.elevatorId;
+        this.currentFloor = source.currentFloor;
+        this.direction = source.direction;
+        this.currentLoad = source.currentLoad;
+        this.capacity = source.capacity;
+        this.destinationCount = source.destinationCount;
+        this.doorsOpen = source.doorsOpen;
+        this.pendingRequestCount = source.pendingRequestCount;
+        this.assignedRequests = assignedRequests;
+        this.droppedAssignmentCount = droppedAssignmentCount;
+        this.step = source.step;
+    }
+
+    /**
+     * Merges an older, undelivered snapshot of the same elevator into this one.
+     * The result has this snapshot's state and the assignments of both, oldest first.
+     * If the merged list exceeds its limit, the oldest assignments are discarded and counted.
+     * @param older the snapshot being replaced
+     * @return the merged snapshot
+     */
+    ElevatorSnapshot mergeAssignments(ElevatorSnapshot older) {
+        if (older.assignedRequests.isEmpty() && older.droppedAssignmentCount == 0) {
+            return this;
+        }
+
+        List<Request> merged = new ArrayList<>(older.assignedRequests);
+        merged.addAll(assignedRequests);
+        int dropped = older.droppedAssignmentCount + droppedAssignmentCount;
+
+        if (merged.size() > MAX_ASSIGNMENTS) {
+            int excess = merged.size() - MAX_ASSIGNMENTS;
+            merged.subList(0, excess).clear();
+            dropped += excess;
+        }
+
+        return new ElevatorSnapshot(this, Collections.unmodifiableList(merged), dropped);
+    }
+
+    /**
+     * Gets the identifier of the elevator.
+     * @return the elevator ID
+     */
+    public int getElevatorId() {
+        return elevatorId;
+    }
+
+    /**
+     * Gets the floor of the elevator.
+     * @return the current floor
+     */
+    public int getCurrentFloor() {
+        return currentFloor;
+    }
+
+    /**
+     * Gets the direction of the elevator.
+     * @return the direction
+     */
+    public Direction getDirection() {
+        return direction;
+    }
+
+    /**
+     * Gets the load of the elevator.
+     * @return the current load
+     */
+    public int getCurrentLoad() {
+        return currentLoad;
+    }
+
+    /**
+     * Gets the capacity of the elevator.
+     * @return the capacity
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Gets the number of destination floors still to be visited.
+     * @return the destination count
+     */
+    public int getDestinationCount() {
+        return destinationCount;
+    }
+
+    /**
+     * Checks if the doors were open.
+     * @return true if the doors were open, false otherwise
+     */
+    public boolean isDoorsOpen() {
+        return doorsOpen;
+    }
+
+    /**
+     * Gets the number of requests pending in the controller.
+     * @return the pending request count
+     */
+    public int getPendingRequestCount() {
+        return pendingRequestCount;
+    }
+
+    /**
+     * Checks if this snapshot carries any request assignments.
+     * @return true if requests were assigned, false for a plain state update
+     */
+    public boolean isAssignment() {
+        return !assignedRequests.isEmpty();
+    }
+
+    /**
+     * Gets the requests assigned to the elevator since the previous snapshot
+     * delivered to this subscriber, oldest first.
+     * @return the assigned requests, empty for a plain state update
+     */
+    public List<Request> getAssignedRequests() {
+        return assignedRequests;
+    }
+
+    /**
+     * Gets the number of assignments discarded because the subscriber fell too far behind.
+     * @return the dropped assignment count
+     */
+    public int getDroppedAssignmentCount() {
+        return droppedAssignmentCount;
+    }
+
+    /**
+     * Gets the controller step in which the snapshot was taken.
+     * @return the step number
+     */
+    public long getStep() {
+        return step;
+    }
+
+    /**
+     * Returns a string representation of the snapshot.
+     * @return string representation of the snapshot
+     */
+    @Override
+    public String toString() {
+        return "ElevatorSnapshot{" +
+                "elevatorId=" + elevatorId +
+                ", step=" + step +
+                ", currentFloor=" + currentFloor +
+                ", direction=" + direction +
+                ", currentLoad=" + currentLoad +
+                ", destinationCount=" + destinationCount +
+                ", doorsOpen=" + doorsOpen +
+                ", pendingRequestCount=" + pendingRequestCount +
+                (!assignedRequests.isEmpty() ? ", assigned=" + assignedRequests : "") +
+                '}';
+    }
+}
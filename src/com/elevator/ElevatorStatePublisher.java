@@ -0,0 +1,245 @@
+package com.elevator;
+
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Class publishing elevator state snapshots to monitoring clients.
+ * Each subscriber gets its own subscription holding at most one undelivered
+ * snapshot per elevator. When a subscriber falls behind, newer snapshots replace
+ * older ones for the same elevator (conflation), so the buffer never grows past
+ * the number of elevators and publishing never waits on a subscriber.
+ * Assignments carried by a replaced snapshot are merged into its replacement.
+ * Delivery happens on the given executor, never on the stepping thread.
+ * @author Ashwin Mahesh
+ */
+public class ElevatorStatePublisher implements Flow.Publisher<ElevatorSnapshot> {
+    /** Executor used to deliver snapshots to subscribers */
+    private final Executor executor;
+    /** Active subscriptions */
+    private final List<ConflatingSubscription> subscriptions;
+    /** Flag indicating whether the publisher has been closed */
+    private volatile boolean closed;
+
+    /**
+     * Constructor to create a publisher that delivers on the common fork-join pool.
+     */
+    public ElevatorStatePublisher() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructor to create a publisher that delivers on the given executor.
+     * @param executor the executor used to deliver snapshots
+     */
+    public ElevatorStatePublisher(Executor executor) {
+        this.executor = Objects.requireNonNull(executor, "executor");
+        this.subscriptions = new CopyOnWriteArrayList<>();
+        this.closed = false;
+    }
+
+    /**
+     * Subscribes a client to elevator state updates.
+     * @param subscriber the subscriber to register
+     */
+    @Override
+    public void subscribe(Flow.Subscriber<? super ElevatorSnapshot> subscriber) {
+        Objects.requireNonNull(subscriber, "subscriber");
+        ConflatingSubscription subscription = new ConflatingSubscription(subscriber);
+        subscriber.onSubscribe(subscription);
+        subscriptions.add(subscription);
+
+        // Re-check after registering, so a concurrent close() cannot miss this subscription
+        if (closed) {
+            subscriptions.remove(subscription);
+            subscription.complete();
+        }
+    }
+
+    /**
+     * Offers a snapshot to every subscriber, replacing any undelivered snapshot
+     * for the same elevator while keeping its assignments. Never blocks on subscriber processing.
+     * @param snapshot the snapshot to publish
+     */
+    public void publish(ElevatorSnapshot snapshot) {
+        if (closed) {
+            return;
+        }
+
+        for (ConflatingSubscription subscription : subscriptions) {
+            subscription.offer(snapshot);
+        }
+    }
+
+    /**
+     * Closes the publisher. Subscribers receive any snapshots still buffered
+     * for them, followed by onComplete.
+     */
+    public void close() {
+        closed = true;
+
+        for (ConflatingSubscription subscription : subscriptions) {
+            subscription.complete();
+        }
+        subscriptions.clear();
+    }
+
+    /**
+     * Checks if any subscriber is registered.
+     * @return true if there is at least one subscriber, false otherwise
+     */
+    public boolean hasSubscribers() {
+        return !subscriptions.isEmpty();
+    }
+
+    /**
+     * Gets the number of registered subscribers.
+     * @return the subscriber count
+     */
+    public int getSubscriberCount() {
+        return subscriptions.size();
+    }
+
+    /**
+     * Subscription keeping the latest undelivered snapshot per elevator.
+     * All signals to the subscriber are issued from a single drain loop run on
+     * the executor, so they are never concurrent.
+     */
+    private final class ConflatingSubscription implements Flow.Subscription, Runnable {
+        /** The subscriber receiving snapshots */
+        private final Flow.Subscriber<? super ElevatorSnapshot> subscriber;
+        /** Latest undelivered snapshot per elevator ID, oldest first */
+        private final Map<Integer, ElevatorSnapshot> latest;
+        /** Number of drain requests not yet handled by the drain loop */
+        private final AtomicInteger wip;
+        /** Number of snapshots the subscriber has requested but not received */
+        private long demand;
+        /** Flag indicating the subscriber should be completed once drained */
+        private boolean completing;
+        /** Error to signal to the subscriber, if any */
+        private Throwable error;
+        /** Flag indicating the subscription is finished */
+        private boolean done;
+
+        ConflatingSubscription(Flow.Subscriber<? super ElevatorSnapshot> subscriber) {
+            this.subscriber = subscriber;
+            this.latest = new LinkedHashMap<>();
+            this.wip = new AtomicInteger();
+        }
+
+        void offer(ElevatorSnapshot snapshot) {
+            synchronized (this) {
+                if (done || completing) {
+                    return;
+                }
+                // Remove first so a replaced elevator moves to the back of the delivery order
+                ElevatorSnapshot replaced = latest.remove(snapshot.getElevatorId());
+                latest.put(snapshot.getElevatorId(),
+                        (replaced != null) ? snapshot.mergeAssignments(replaced) : snapshot);
+            }
+            schedule();
+        }
+
+        void complete() {
+            synchronized (this) {
+                completing = true;
+            }
+            schedule();
+        }
+
+        @Override
+        public void request(long n) {
+            synchronized (this) {
+                if (done) {
+                    return;
+                }
+                if (n <= 0) {
+                    error = new IllegalArgumentException("Requested count must be positive: " + n);
+                } else {
+                    demand = (demand + n < 0) ? Long.MAX_VALUE : demand + n;
+                }
+            }
+            schedule();
+        }
+
+        @Override
+        public void cancel() {
+            synchronized (this) {
+                done = true;
+                latest.clear();
+            }
+            subscriptions.remove(this);
+        }
+
+        private void schedule() {
+            if (wip.getAndIncrement() == 0) {
+                executor.execute(this);
+            }
+        }
+
+        /**
+         * Drains buffered snapshots while the subscriber has outstanding demand.
+         */
+        @Override
+        public void run() {
+            int missed = 1;
+
+            while (true) {
+                while (true) {
+                    ElevatorSnapshot next = null;
+                    Throwable failure = null;
+                    boolean finished = false;
+
+                    synchronized (this) {
+                        if (done) {
+                            break;
+                        }
+                        if (error != null) {
+                            failure = error;
+                            done = true;
+                            latest.clear();
+                        } else if (demand > 0 && !latest.isEmpty()) {
+                            Iterator<ElevatorSnapshot> iterator = latest.values().iterator();
+                            next = iterator.next();
+                            iterator.remove();
+                            demand--;
+                        } else if (completing && latest.isEmpty()) {
+                            finished = true;
+                            done = true;
+                        } else {
+                            break;
+                        }
+                    }
+
+                    if (failure != null) {
+                        subscriptions.remove(this);
+                        subscriber.onError(failure);
+                        break;
+                    }
+                    if (finished) {
+                        subscriptions.remove(this);
+                        subscriber.onComplete();
+                        break;
+                    }
+
+                    try {
+                        subscriber.onNext(next);
+                    } catch (Throwable t) {
+                        cancel();
+                        System.err.printf("Monitoring subscriber failed and was cancelled: %s%n", t);
+                        break;
+                    }
+                }
+
+                missed = wip.addAndGet(-missed);
+                if (missed == 0) {
+                    break;
+                }
+            }
+        }
+    }
+}
@@ -1,13 +1,31 @@
 package com.elevator;
 
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.Random;
+import java.util.concurrent.Flow;
+
 /**
  * Main class to run the Elevator System simulation.
  * This class initializes the ElevatorController and simulates various elevator requests.
  * @author Ashwin Mahesh
  */
 public class ElevatorSystem {
-    
+    /** Simulated time one step represents, used to convert rates to passengers per hour */
+    private static final int SECONDS_PER_STEP = 2;
+    /** Average wait, in steps, both dispatch modes must meet in the comparison */
+    private static final double WAIT_TARGET_STEPS = 15;
+    /** Number of steps during which passengers arrive in each comparison run */
+    private static final int ARRIVAL_STEPS = 600;
+    /** Maximum number of steps allowed to finish serving passengers after arrivals stop */
+    private static final int DRAIN_STEPS = 600;
+
     public static void main(String[] args) {
+        if (args.length > 0 && args[0].equals("compare")) {
+            compareDispatchModes();
+            return;
+        }
+
         System.out.println("Starting Elevator Simulation...\n");
 
         // Configuration
@@ -21,8 +39,13 @@ public class ElevatorSystem {
             numElevators, minFloor, maxFloor, elevatorCapacity
         );
 
+        // Attach a monitoring client to the live state feed
+        controller.getStatePublisher().subscribe(new MonitorSubscriber());
+
         // Simulate various requests
         runSimulation(controller);
+
+        controller.getStatePublisher().close();
     }
 
     /**
@@ -79,6 +102,7 @@ public class ElevatorSystem {
         System.out.println("\n\n=== SIMULATION COMPLETE ===");
         controller.printStatus();
         System.out.printf("Total steps: %d%n", step);
+        System.out.println(controller.getStats());
         
         if (controller.allElevatorsIdle()) {
             System.out.println("All requests completed successfully!");
@@ -86,4 +110,118 @@ public class ElevatorSystem {
             System.out.println("Simulation ended with pending work (max steps reached)");
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Compare the handling capacity of conventional and destination dispatch during up-peak traffic.
+     * Passengers arrive at the lobby at increasing rates; the handling capacity of a mode is the
+     * highest arrival rate it serves completely while keeping the average wait within the target.
+     */
+    private static void compareDispatchModes() {
+        int numElevators = 3;
+        int minFloor = 1;
+        int maxFloor = 10;
+        int elevatorCapacity = 8;
+        double[] arrivalRates = {0.1, 0.2, 0.3, 0.4, 0.5, 0.6, 0.7, 0.8, 0.9, 1.0};
+
+        System.out.printf("Up-peak comparison: %d elevators, floors %d-%d, %d s per step, wait target %.0f s%n%n",
+                numElevators, minFloor, maxFloor, SECONDS_PER_STEP, WAIT_TARGET_STEPS * SECONDS_PER_STEP);
+        System.out.printf("%-14s %-13s %10s %10s %10s%n", "Mode", "Arrivals/h", "Delivered", "Avg wait", "Max wait");
+
+        for (DispatchMode mode : DispatchMode.values()) {
+            double handlingCapacity = 0;
+
+            for (double rate : arrivalRates) {
+                PerformanceStats stats = runUpPeak(mode, rate, numElevators, minFloor, maxFloor, elevatorCapacity);
+                double passengersPerHour = rate * 3600 / SECONDS_PER_STEP;
+
+                System.out.printf("%-14s %-13.0f %4d/%-5d %8.1f s %8d s%n",
+                        mode, passengersPerHour, stats.getDeliveredCount(), stats.getRequestCount(),
+                        stats.getAverageWaitSteps() * SECONDS_PER_STEP, stats.getMaxWaitSteps() * SECONDS_PER_STEP);
+
+                if (stats.getDeliveredCount() == stats.getRequestCount()
+                        && stats.getAverageWaitSteps() <= WAIT_TARGET_STEPS) {
+                    handlingCapacity = Math.max(handlingCapacity, passengersPerHour);
+                }
+            }
+
+            System.out.printf("%s handling capacity: %.0f passengers/hour%n%n", mode, handlingCapacity);
+        }
+    }
+
+    /**
+     * Run one up-peak scenario: passengers arrive at the lobby and travel to random upper floors.
+     * Console output from the controller is suppressed while the scenario runs.
+     * @param mode the dispatch mode to use
+     * @param arrivalRate the average number of passengers arriving per step
+     * @param numElevators the number of elevators in the building
+     * @param minFloor the lobby floor where passengers arrive
+     * @param maxFloor the highest floor passengers travel to
+     * @param elevatorCapacity the maximum passenger capacity for each elevator
+     * @return the statistics collected by the controller
+     */
+    private static PerformanceStats runUpPeak(DispatchMode mode, double arrivalRate, int numElevators,
+                                              int minFloor, int maxFloor, int elevatorCapacity) {
+        PrintStream console = System.out;
+        // Same seed for every run, so both modes see the same passengers
+        Random random = new Random(42);
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+
+        try {
+            ElevatorController controller = new ElevatorController(
+                numElevators, minFloor, maxFloor, elevatorCapacity, mode
+            );
+            controller.setDoorDelayMillis(0);
+            double arrivals = 0;
+
+            for (int step = 0; step < ARRIVAL_STEPS; step++) {
+                arrivals += arrivalRate;
+                while (arrivals >= 1) {
+                    arrivals--;
+                    controller.requestElevator(minFloor, minFloor + 1 + random.nextInt(maxFloor - minFloor));
+                }
+                controller.step();
+            }
+
+            for (int step = 0; step < DRAIN_STEPS && !controller.allElevatorsIdle(); step++) {
+                controller.step();
+            }
+
+            return controller.getStats();
+        } finally {
+            System.setOut(console);
+        }
+    }
+
+    /**
+     * Monitoring client that prints elevator assignments from the state feed.
+     * Requests one snapshot at a time, so it sees only the latest state per elevator, but every assignment.
+     */
+    private static class MonitorSubscriber implements Flow.Subscriber<ElevatorSnapshot> {
+        private Flow.Subscription subscription;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(1);
+        }
+
+        @Override
+        public void onNext(ElevatorSnapshot snapshot) {
+            for (Request request : snapshot.getAssignedRequests()) {
+                System.out.printf("[Monitor] Elevator %d at floor %d took %s%n",
+                        snapshot.getElevatorId(), snapshot.getCurrentFloor(), request);
+            }
+            subscription.request(1);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            System.err.printf("[Monitor] State feed failed: %s%n", throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            System.out.println("[Monitor] State feed closed");
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.elevator;
+
+import java.util.*;
+
+/**
+ * Class tracking passenger service metrics for a controller.
+ * Times are measured in controller steps: wait time runs from the request to
+ * boarding, and trip time from the request to arrival at the destination.
+ * @author Ashwin Mahesh
+ */
+public class PerformanceStats {
+    /** Step in which each outstanding request was made */
+    private final Map<Request, Long> requestSteps;
+    /** Number of requests made */
+    private int requestCount;
+    /** Number of passengers that boarded */
+    private int boardedCount;
+    /** Number of passengers delivered to their destination */
+    private int deliveredCount;
+    /** Sum of wait times of boarded passengers */
+    private long totalWaitSteps;
+    /** Longest wait time of any boarded passenger */
+    private long maxWaitSteps;
+    /** Sum of trip times of delivered passengers */
+    private long totalTripSteps;
+
+    /**
+     * Constructor to create an empty set of statistics.
+     */
+    public PerformanceStats() {
+        this.requestSteps = new HashMap<>();
+    }
+
+    /**
+     * Records a new request.
+     * @param request the request made
+     * @param step the step in which it was made
+     */
+    public void recordRequest(Request request, long step) {
+        requestSteps.put(request, step);
+        requestCount++;
+    }
+
+    /**
+     * Records the passengers that got off and on during a stop.
+     * @param alighted the requests whose passengers got off
+     * @param boarded the requests whose passengers got on
+     * @param step the step in which the stop happened
+     */
+    public void recordStop(List<Request> alighted, List<Request> boarded, long step) {
+        for (Request request : alighted) {
+            Long requestStep = requestSteps.remove(request);
+            if (requestStep != null) {
+                totalTripSteps += step - requestStep;
+                deliveredCount++;
+            }
+        }
+
+        for (Request request : boarded) {
+            Long requestStep = requestSteps.get(request);
+            if (requestStep != null) {
+                long wait = step - requestStep;
+                totalWaitSteps += wait;
+                maxWaitSteps = Math.max(maxWaitSteps, wait);
+                boardedCount++;
+            }
+        }
+    }
+
+    /**
+     * Gets the number of requests made.
+     * @return the request count
+     */
+    public int getRequestCount() {
+        return requestCount;
+    }
+
+    /**
+     * Gets the number of passengers delivered to their destination.
+     * @return the delivered count
+     */
+    public int getDeliveredCount() {
+        return deliveredCount;
+    }
+
+    /**
+     * Gets the average wait time of boarded passengers.
+     * @return the average wait in steps, or 0 if nobody has boarded
+     */
+    public double getAverageWaitSteps() {
+        return boardedCount == 0 ? 0 : (double) totalWaitSteps / boardedCount;
+    }
+
+    /**
+     * Gets the longest wait time of any boarded passenger.
+     * @return the maximum wait in steps
+     */
+    public long getMaxWaitSteps() {
+        return maxWaitSteps;
+    }
+
+    /**
+     * Gets the average trip time of delivered passengers.
+     * @return the average trip time in steps, or 0 if nobody has been delivered
+     */
+    public double getAverageTripSteps() {
+        return deliveredCount == 0 ? 0 : (double) totalTripSteps / deliveredCount;
+    }
+
+    /**
+     * Returns a string representation of the statistics.
+     * @return string representation of the statistics
+     */
+    @Override
+    public String toString() {
+        return String.format("PerformanceStats{requests=%d, delivered=%d, avgWait=%.1f, maxWait=%d, avgTrip=%.1f}",
+                requestCount, deliveredCount, getAverageWaitSteps(), maxWaitSteps, getAverageTripSteps());
+    }
+}